@@ -0,0 +1,97 @@
+package LibTest.TERM_PAPER.CLI;
+
+import LibTest.TERM_PAPER.CONFIG.CrossroadsConfig;
+import LibTest.TERM_PAPER.EVOLUTIONARY_SELECTION.TrafficLightOptimizer;
+import LibTest.TERM_PAPER.POM.AdjustableCrossroads;
+import LibTest.TERM_PAPER.POM.AdjustableCrossroadsCSVExport;
+import LibTest.TERM_PAPER.POM.AdjustableCrossroadsKernelCheck;
+import LibTest.TERM_PAPER.POM.AdjustableCrossroadsScenarios;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Єдина точка входу командного рядка для симуляції, перебору, оптимізації та експорту.
+ * <p>
+ * Використання: {@code crossroads <команда> [--config файл] [--set ключ=значення]...}
+ * <p>
+ * Команди:
+ * - simulate  — симуляція з початковими часами фаз
+ * - sweep     — повний перебір часів першої та третьої фаз
+ * - optimize  — оптимізація генетичним алгоритмом
+ * - export    — експорт статистики симуляції до CSV
+ * - scenarios — оцінка робастності за сценаріями інтенсивності руху
+ * - tune      — паралельне налаштування гіперпараметрів генетичного алгоритму
+ * - check     — перевірка векторизованого ядра за аналітичною моделлю та мережею Петрі
+ * <p>
+ * Параметри застосовуються до першого звернення до класів моделі, тому кожен запуск
+ * бачить власну конфігурацію без перекомпіляції.
+ */
+public class CrossroadsCLI {
+
+    private static final String USAGE = """
+            Використання: crossroads <simulate|sweep|optimize|export|scenarios|tune|check> [--config файл] [--set ключ=значення]...
+            """;
+
+    /**
+     * Розбирає аргументи, завантажує конфігурацію та виконує команду.
+     */
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            exitWithUsage("Не вказано команду");
+        }
+
+        for (int i = 1; i < args.length; ++i) {
+            switch (args[i]) {
+                case "--config" -> {
+                    if (i + 1 >= args.length) {
+                        exitWithUsage("Не вказано шлях до файлу конфігурації");
+                    }
+                    try {
+                        CrossroadsConfig.load(args[++i]);
+                    } catch (IOException e) {
+                        System.err.println("[ПОМИЛКА] Помилка читання файлу конфігурації: " + e.getMessage());
+                        System.exit(1);
+                    }
+                }
+                case "--set" -> {
+                    if (i + 1 >= args.length) {
+                        exitWithUsage("Не вказано параметр для --set");
+                    }
+                    String[] entry = args[++i].split("=", 2);
+                    if (entry.length != 2 || entry[0].isBlank()) {
+                        exitWithUsage("Параметр --set повинен мати вигляд ключ=значення: " + args[i]);
+                    }
+                    CrossroadsConfig.set(entry[0].trim(), entry[1].trim());
+                }
+                default -> exitWithUsage("Невідомий параметр: " + args[i]);
+            }
+        }
+
+        List<String> errors = CrossroadsConfig.validate();
+        if (!errors.isEmpty()) {
+            errors.forEach(error -> System.err.println("[ПОМИЛКА] " + error));
+            System.err.print(USAGE);
+            System.exit(2);
+        }
+
+        switch (args[0]) {
+            case "simulate" -> AdjustableCrossroads.runSimulation();
+            case "sweep" -> AdjustableCrossroads.runSweep();
+            case "optimize" -> TrafficLightOptimizer.main(new String[0]);
+            case "export" -> AdjustableCrossroadsCSVExport.main(new String[0]);
+            case "scenarios" -> AdjustableCrossroadsScenarios.main(new String[0]);
+            case "tune" -> HyperParameterTuner.main(new String[0]);
+            case "check" -> AdjustableCrossroadsKernelCheck.main(new String[0]);
+            default -> exitWithUsage("Невідома команда: " + args[0]);
+        }
+    }
+
+    /**
+     * Виводить повідомлення про помилку та довідку з використання і завершує роботу з кодом 2.
+     */
+    private static void exitWithUsage(String message) {
+        System.err.printf("[ПОМИЛКА] %s%n%s", message, USAGE);
+        System.exit(2);
+    }
+}
@@ -0,0 +1,286 @@
+package LibTest.TERM_PAPER.CLI;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static LibTest.TERM_PAPER.CONFIG.CrossroadsConfig.*;
+import static LibTest.TERM_PAPER.EVOLUTIONARY_SELECTION.TrafficLightOptimizer.TUNING_RESULT_PREFIX;
+
+/**
+ * Паралельне налаштування гіперпараметрів генетичного алгоритму.
+ * <p>
+ * Параметри генетичного алгоритму є константами класу, тому кожна конфігурація сітки запускається
+ * окремим короткочасним процесом {@code CrossroadsCLI optimize} (з архівом AppCDS запуск займає частки секунди)
+ * з фіксованим зерном та цільовою придатністю. Для кожної конфігурації вимірюються витрачений модельний час,
+ * кількість оцінок та час до досягнення цілі, а найшвидша конфігурація зберігається як профіль для {@code --config}.
+ * <p>
+ * Сітка задається ключами {@code tune.grid.<ключ параметра>=значення1, значення2, ...},
+ * наприклад {@code tune.grid.ga.tourneySize=3, 5, 7}; ключі та значення сітки перевіряються
+ * {@link LibTest.TERM_PAPER.CONFIG.CrossroadsConfig#validate()} до запуску будь-якого процесу. Зерно фіксує випадковість генетичних операторів
+ * та векторизованого ядра, тож з {@code ga.isVectorized=true} генераційні запуски повністю відтворювані;
+ * шум симуляції мережею Петрі (генератор бібліотеки PetriObj) зерном не керується.
+ */
+public class HyperParameterTuner {
+
+    /**
+     * Параметри налаштування.
+     */
+    private static final String TUNE_PREFIX = "tune.";
+    private static final int SEEDS = getInt("tune.seeds", 3);
+    private static final int PARALLELISM = getInt("tune.parallelism", Runtime.getRuntime().availableProcessors());
+    private static final double TARGET_FITNESS = getDouble("tune.targetFitness", 1.0);
+    private static final int MAX_GENERATIONS = getInt("tune.maxGenerations", 200);
+    private static final int TIMEOUT_SECONDS = getInt("tune.timeoutSeconds", 600);
+    private static final String JAVA_OPTIONS = getString("tune.javaOptions", "--add-modules jdk.incubator.vector");
+    private static final String PROFILE_FILE_PATH = getString("tune.profileFilePath", "tuned_profile.properties");
+    private static final String RESULTS_CSV_FILE_PATH = getString("tune.resultsCsvFilePath", "tuning_results.csv");
+    private static final String RESULTS_CSV_HEADER = "Settings,Runs,Reached,Mean simulated time,Mean evaluations,Mean optimizer time,Mean wall time,Mean best fitness\n";
+
+    /**
+     * Результат одного запуску оптимізатора.
+     */
+    private record TuningRun(Map<String, String> settings, boolean reached, double simulatedTime, long evaluations,
+                             long optimizerMillis, long wallMillis, double bestFitness) {
+    }
+
+    /**
+     * Зведені результати запусків однієї конфігурації.
+     */
+    private record TuningSummary(Map<String, String> settings, int runs, int reached, double meanSimulatedTime,
+                                 double meanEvaluations, double meanOptimizerMillis, double meanWallMillis,
+                                 double meanBestFitness) {
+    }
+
+    /**
+     * Порядок конфігурацій: більше досягнень цілі, менше витраченого модельного часу, менше оцінок, менший час.
+     * Модельний час враховує вартість оцінок з різною точністю, тож порівнює й багаторівневу оцінку.
+     */
+    private static final Comparator<TuningSummary> FASTEST = Comparator.<TuningSummary>comparingInt(summary -> -summary.reached())
+            .thenComparingDouble(TuningSummary::meanSimulatedTime)
+            .thenComparingDouble(TuningSummary::meanEvaluations)
+            .thenComparingDouble(TuningSummary::meanWallMillis);
+
+    /**
+     * Запускає налаштування: усі конфігурації сітки з усіма зернами паралельно.
+     */
+    public static void main(String[] args) {
+        List<Map<String, String>> grid = buildGrid();
+        System.out.printf("Конфігурацій: %d, зерен: %d, паралельних запусків: %d%n", grid.size(), SEEDS, PARALLELISM);
+
+        long startTime = System.nanoTime();
+        List<TuningRun> runs = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(PARALLELISM);
+        try {
+            List<Future<TuningRun>> futures = new ArrayList<>();
+            for (Map<String, String> settings : grid) {
+                for (int seed = 1; seed <= SEEDS; ++seed) {
+                    long finalSeed = seed;
+                    futures.add(executor.submit(() -> runOptimizer(settings, finalSeed)));
+                }
+            }
+            // Невдалий запуск пропускається, решта результатів зберігається
+            for (Future<TuningRun> future : futures) {
+                try {
+                    TuningRun run = future.get();
+                    if (run != null) {
+                        runs.add(run);
+                    }
+                } catch (ExecutionException e) {
+                    System.err.println("[ПОМИЛКА] Помилка запуску оптимізатора: " + e.getCause().getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<TuningSummary> summaries = summarize(runs);
+        if (summaries.isEmpty()) {
+            System.err.println("[ПОМИЛКА] Жоден запуск оптимізатора не завершився успішно");
+            return;
+        }
+
+        try {
+            writeResults(summaries);
+            writeProfile(summaries.getFirst());
+            System.out.println("Результати налаштування збережено в: " + RESULTS_CSV_FILE_PATH);
+            System.out.println("Профіль гіперпараметрів збережено в: " + PROFILE_FILE_PATH);
+        } catch (IOException e) {
+            System.err.println("[ПОМИЛКА] Помилка запису результатів налаштування: " + e.getMessage());
+        }
+
+        TuningSummary best = summaries.getFirst();
+        System.out.printf("%n--- Результати налаштування (%.1f с) ---%nНайшвидша конфігурація: %s%n",
+                (System.nanoTime() - startTime) / 1e9, best.settings());
+        System.out.printf("Досягнуто цілі: %d з %d; середній модельний час: %.1f; середня кількість оцінок: %.1f; середній час: %.0f мс%n",
+                best.reached(), best.runs(), best.meanSimulatedTime(), best.meanEvaluations(), best.meanWallMillis());
+    }
+
+    /**
+     * Будує декартів добуток значень сітки.
+     *
+     * @return Список конфігурацій (ключ параметра → значення)
+     */
+    private static @NotNull List<Map<String, String>> buildGrid() {
+        List<Map<String, String>> grid = new ArrayList<>(List.of(new LinkedHashMap<>()));
+        for (String gridKey : getKeys(GRID_PREFIX)) {
+            String key = gridKey.substring(GRID_PREFIX.length());
+            List<Map<String, String>> expanded = new ArrayList<>();
+            for (Map<String, String> settings : grid) {
+                for (String value : getString(gridKey, "").split(",")) {
+                    Map<String, String> extended = new LinkedHashMap<>(settings);
+                    extended.put(key, value.trim());
+                    expanded.add(extended);
+                }
+            }
+            grid = expanded;
+        }
+        return grid;
+    }
+
+    /**
+     * Запускає окремий процес оптимізатора з заданою конфігурацією та зерном.
+     * Процес успадковує всі параметри поточної конфігурації, окрім параметрів налаштування;
+     * процес, що не завершився за {@code tune.timeoutSeconds}, примусово зупиняється.
+     *
+     * @return Результат запуску або null, якщо процес не повідомив коректний результат
+     */
+    private static TuningRun runOptimizer(@NotNull Map<String, String> settings, long seed) throws IOException, InterruptedException {
+        Path fitnessCsv = Files.createTempFile("tuning_fitness", ".csv");
+        Path fidelityCsv = Files.createTempFile("tuning_fidelity", ".csv");
+        Path outputLog = Files.createTempFile("tuning_output", ".log");
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (!JAVA_OPTIONS.isBlank()) {
+            command.addAll(List.of(JAVA_OPTIONS.split("\\s+")));
+        }
+        command.addAll(List.of("-cp", System.getProperty("java.class.path"), CrossroadsCLI.class.getName(), "optimize"));
+
+        Map<String, String> overrides = new LinkedHashMap<>();
+        getKeys("").stream()
+                .filter(key -> !key.startsWith(TUNE_PREFIX))
+                .forEach(key -> overrides.put(key, getString(key, "")));
+        overrides.putAll(settings);
+        overrides.put("ga.seed", String.valueOf(seed));
+        overrides.put("ga.targetFitness", String.valueOf(TARGET_FITNESS));
+        overrides.put("ga.maxGenerations", String.valueOf(MAX_GENERATIONS));
+        overrides.put("output.fitnessCsvFilePath", fitnessCsv.toString());
+        overrides.put("output.fidelityCsvFilePath", fidelityCsv.toString());
+        overrides.forEach((key, value) -> command.addAll(List.of("--set", key + "=" + value)));
+
+        long startTime = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(outputLog.toFile()).start();
+        String resultLine;
+        try {
+            if (!process.waitFor(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+                System.err.printf("[ПОМИЛКА] Запуск %s із зерном %d перевищив ліміт часу %d с і був зупинений%n",
+                        settings, seed, TIMEOUT_SECONDS);
+                return null;
+            }
+            resultLine = new String(Files.readAllBytes(outputLog), StandardCharsets.UTF_8).lines()
+                    .filter(line -> line.startsWith(TUNING_RESULT_PREFIX))
+                    .map(line -> line.substring(TUNING_RESULT_PREFIX.length()))
+                    .reduce((first, second) -> second)
+                    .orElse(null);
+        } finally {
+            process.destroyForcibly();
+            Files.deleteIfExists(fitnessCsv);
+            Files.deleteIfExists(fidelityCsv);
+            Files.deleteIfExists(outputLog);
+        }
+        long wallMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+        if (resultLine == null) {
+            System.err.printf("[ПОМИЛКА] Запуск %s із зерном %d завершився без результату (код %d)%n",
+                    settings, seed, process.exitValue());
+            return null;
+        }
+
+        String[] fields = resultLine.split(";");
+        if (fields.length != 5) {
+            System.err.printf("[ПОМИЛКА] Запуск %s із зерном %d повідомив некоректний результат: %s%n", settings, seed, resultLine);
+            return null;
+        }
+        TuningRun run;
+        try {
+            run = new TuningRun(settings, Boolean.parseBoolean(fields[0]), Double.parseDouble(fields[4]),
+                    Long.parseLong(fields[1]), Long.parseLong(fields[2]), wallMillis, Double.parseDouble(fields[3]));
+        } catch (NumberFormatException e) {
+            System.err.printf("[ПОМИЛКА] Запуск %s із зерном %d повідомив некоректний результат: %s%n", settings, seed, resultLine);
+            return null;
+        }
+        System.out.printf(Locale.ROOT, "%s, зерно %d: ціль %s, модельний час %.1f, оцінок %d, %d мс%n",
+                settings, seed, run.reached() ? "досягнуто" : "не досягнуто", run.simulatedTime(), run.evaluations(), wallMillis);
+        return run;
+    }
+
+    /**
+     * Зводить запуски за конфігураціями та впорядковує їх від найшвидшої.
+     */
+    private static @NotNull List<TuningSummary> summarize(@NotNull List<TuningRun> runs) {
+        return runs.stream()
+                .collect(Collectors.groupingBy(TuningRun::settings, LinkedHashMap::new, Collectors.toList()))
+                .entrySet().stream()
+                .map(entry -> new TuningSummary(
+                        entry.getKey(),
+                        entry.getValue().size(),
+                        (int) entry.getValue().stream().filter(TuningRun::reached).count(),
+                        entry.getValue().stream().mapToDouble(TuningRun::simulatedTime).average().orElse(0),
+                        entry.getValue().stream().mapToLong(TuningRun::evaluations).average().orElse(0),
+                        entry.getValue().stream().mapToLong(TuningRun::optimizerMillis).average().orElse(0),
+                        entry.getValue().stream().mapToLong(TuningRun::wallMillis).average().orElse(0),
+                        entry.getValue().stream().mapToDouble(TuningRun::bestFitness).average().orElse(0)
+                ))
+                .sorted(FASTEST)
+                .toList();
+    }
+
+    /**
+     * Записує зведені результати всіх конфігурацій у CSV-файл.
+     */
+    private static void writeResults(@NotNull List<TuningSummary> summaries) throws IOException {
+        try (BufferedWriter csvWriter = new BufferedWriter(new FileWriter(RESULTS_CSV_FILE_PATH))) {
+            csvWriter.append(RESULTS_CSV_HEADER);
+            for (TuningSummary summary : summaries) {
+                csvWriter.append(String.format(Locale.ROOT, "\"%s\",%d,%d,%.1f,%.1f,%.1f,%.1f,%.6f%n",
+                        summary.settings(), summary.runs(), summary.reached(), summary.meanSimulatedTime(), summary.meanEvaluations(),
+                        summary.meanOptimizerMillis(), summary.meanWallMillis(), summary.meanBestFitness()));
+            }
+        }
+    }
+
+    /**
+     * Записує найшвидшу конфігурацію як профіль властивостей, придатний для {@code --config}.
+     */
+    private static void writeProfile(@NotNull TuningSummary best) throws IOException {
+        try (BufferedWriter profileWriter = new BufferedWriter(new FileWriter(PROFILE_FILE_PATH, StandardCharsets.UTF_8))) {
+            profileWriter.append(String.format(Locale.ROOT,
+                    "# Найшвидша конфігурація: ціль %.4f досягнуто в %d з %d запусків, у середньому за %.1f модельного часу (%.1f оцінок)%n",
+                    TARGET_FITNESS, best.reached(), best.runs(), best.meanSimulatedTime(), best.meanEvaluations()));
+            for (Map.Entry<String, String> setting : best.settings().entrySet()) {
+                profileWriter.append(setting.getKey()).append("=").append(setting.getValue()).append("\n");
+            }
+        }
+    }
+}
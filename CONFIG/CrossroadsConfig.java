@@ -0,0 +1,410 @@
+package LibTest.TERM_PAPER.CONFIG;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Конфігурація параметрів симуляції та генетичного алгоритму.
+ * <p>
+ * Значення читаються з файлу властивостей, шлях до якого задається системною властивістю
+ * {@value #CONFIG_PROPERTY} або через параметри {@code --config} та {@code --set} командного рядка. Константи класів моделі та оптимізатора
+ * ініціалізуються з цієї конфігурації під час першого звернення до них, тому конфігурацію
+ * потрібно завантажити до запуску симуляції.
+ */
+public class CrossroadsConfig {
+
+    /**
+     * Системна властивість зі шляхом до файлу конфігурації.
+     */
+    public static final String CONFIG_PROPERTY = "crossroads.config";
+
+    /**
+     * Префікс ключів сітки налаштування гіперпараметрів: {@code tune.grid.<ключ параметра>=значення1, значення2, ...}.
+     */
+    public static final String GRID_PREFIX = "tune.grid.";
+
+    /**
+     * Префікси ключів, дозволені поза переліком відомих параметрів, та кількість напрямків руху перехрестя.
+     */
+    private static final List<String> OPEN_PREFIXES = List.of("output.", "export.");
+    private static final int DIRECTIONS = 4;
+    private static final int DEFAULT_SCENARIO_COUNT = 3;
+
+    /**
+     * Опис відомого параметра: розбір значення та умова його допустимості.
+     *
+     * @param parser    Розбір значення
+     * @param isValid   Умова допустимості розібраного значення
+     * @param condition Опис допустимих значень для повідомлення про помилку
+     */
+    private record Parameter<T>(Function<String, T> parser, Predicate<T> isValid, String condition) {
+
+        /**
+         * Перевіряє значення параметра.
+         *
+         * @return Повідомлення про помилку або null, якщо значення допустиме
+         */
+        private String check(String key, @NotNull String value) {
+            try {
+                if (isValid.test(parser.apply(value.trim()))) {
+                    return null;
+                }
+            } catch (IllegalArgumentException e) {
+                // Недійсний формат повідомляється так само, як і недопустиме значення
+            }
+            return String.format("Недійсне значення параметра %s: %s (очікується %s)", key, value, condition);
+        }
+    }
+
+    /**
+     * Параметри, які налаштування гіперпараметрів задає кожному запуску само, тому вони не можуть бути в сітці.
+     */
+    private static final List<String> TUNER_KEYS = List.of("ga.seed", "ga.targetFitness", "ga.maxGenerations");
+
+    /**
+     * Відомі параметри з умовами допустимості значень.
+     */
+    private static final Map<String, Parameter<?>> PARAMETERS = Map.ofEntries(
+            Map.entry("simulation.time", doubleParameter(value -> value > 0, "додатне число")),
+            Map.entry("simulation.iterations", intParameter(value -> value > 0, "додатне ціле число")),
+            Map.entry("simulation.phaseTimes", new Parameter<>(CrossroadsConfig::parseIntArray,
+                    times -> times.length == DIRECTIONS && Arrays.stream(times).allMatch(time -> time > 0),
+                    DIRECTIONS + " додатні цілі числа через кому")),
+            Map.entry("simulation.arrivalTimes", new Parameter<>(CrossroadsConfig::parseDoubleArray,
+                    CrossroadsConfig::isDirectionTimes, DIRECTIONS + " додатні числа через кому")),
+            Map.entry("sweep.isSearching", booleanParameter()),
+            Map.entry("scenarios.arrivalTimes", new Parameter<>(CrossroadsConfig::parseDoubleMatrix,
+                    scenarios -> Arrays.stream(scenarios).allMatch(CrossroadsConfig::isDirectionTimes),
+                    "сценарії по " + DIRECTIONS + " додатні числа, розділені крапкою з комою")),
+            Map.entry("scenarios.weights", new Parameter<>(CrossroadsConfig::parseDoubleArray,
+                    weights -> Arrays.stream(weights).allMatch(weight -> weight >= 0) && Arrays.stream(weights).sum() > 0,
+                    "невід'ємні числа через кому з додатною сумою")),
+            Map.entry("scenarios.durations", new Parameter<>(CrossroadsConfig::parseDoubleArray,
+                    durations -> Arrays.stream(durations).allMatch(duration -> duration > 0), "додатні числа через кому")),
+            Map.entry("ga.populationSize", intParameter(value -> value > 0, "додатне ціле число")),
+            Map.entry("ga.maxGenerations", intParameter(value -> value > 0, "додатне ціле число")),
+            Map.entry("ga.tourneySize", intParameter(value -> value > 0, "додатне ціле число")),
+            Map.entry("ga.crossoverRate", doubleParameter(value -> value >= 0 && value <= 1, "число від 0 до 1")),
+            Map.entry("ga.crossoverAlpha", doubleParameter(value -> value >= 0, "невід'ємне число")),
+            Map.entry("ga.mutationRate", doubleParameter(value -> value >= 0 && value <= 1, "число від 0 до 1")),
+            Map.entry("ga.mutationDev", intParameter(value -> value >= 0, "невід'ємне ціле число")),
+            Map.entry("ga.isRobust", booleanParameter()),
+            Map.entry("ga.robustRiskWeight", doubleParameter(value -> value >= 0 && value <= 1, "число від 0 до 1")),
+            Map.entry("ga.isVectorized", booleanParameter()),
+            Map.entry("ga.isMultiFidelity", booleanParameter()),
+            Map.entry("ga.fidelityLevels", intParameter(value -> value >= 1, "ціле число не менше 1")),
+            Map.entry("ga.fidelityEta", intParameter(value -> value >= 2, "ціле число не менше 2")),
+            Map.entry("ga.isSteadyState", booleanParameter()),
+            Map.entry("ga.workers", intParameter(value -> value > 0, "додатне ціле число")),
+            Map.entry("ga.elitismScale", doubleParameter(value -> value >= 0, "невід'ємне число")),
+            Map.entry("ga.targetFitness", doubleParameter(value -> value >= 0, "невід'ємне число")),
+            Map.entry("ga.seed", new Parameter<>(Long::parseLong, value -> true, "ціле число")),
+            Map.entry("output.fitnessCsvFilePath", pathParameter()),
+            Map.entry("output.fidelityCsvFilePath", pathParameter()),
+            Map.entry("export.timeStep", intParameter(value -> value > 0, "додатне ціле число")),
+            Map.entry("export.csvFilePath", pathParameter()),
+            Map.entry("tune.seeds", intParameter(value -> value > 0, "додатне ціле число")),
+            Map.entry("tune.parallelism", intParameter(value -> value > 0, "додатне ціле число")),
+            Map.entry("tune.targetFitness", doubleParameter(value -> value > 0, "додатне число")),
+            Map.entry("tune.maxGenerations", intParameter(value -> value > 0, "додатне ціле число")),
+            Map.entry("tune.timeoutSeconds", intParameter(value -> value > 0, "додатне ціле число")),
+            Map.entry("tune.javaOptions", new Parameter<>(Function.identity(), value -> true, "рядок")),
+            Map.entry("tune.profileFilePath", pathParameter()),
+            Map.entry("tune.resultsCsvFilePath", pathParameter())
+    );
+
+    private static final Properties properties = new Properties();
+
+    static {
+        String configPath = System.getProperty(CONFIG_PROPERTY);
+        if (configPath != null) {
+            try {
+                load(configPath);
+            } catch (IOException e) {
+                System.err.println("[ПОМИЛКА] Помилка читання файлу конфігурації: " + e.getMessage());
+                System.exit(1);
+            }
+            List<String> errors = validate();
+            if (!errors.isEmpty()) {
+                errors.forEach(error -> System.err.println("[ПОМИЛКА] " + error));
+                System.exit(2);
+            }
+        }
+    }
+
+    /**
+     * Завантажує параметри з файлу властивостей.
+     *
+     * @param configPath Шлях до файлу конфігурації
+     * @throws IOException Якщо файл неможливо прочитати
+     */
+    public static void load(String configPath) throws IOException {
+        try (Reader reader = new FileReader(configPath, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+    }
+
+    /**
+     * Перевизначає окремий параметр.
+     *
+     * @param key   Ключ параметра
+     * @param value Значення параметра
+     */
+    public static void set(String key, String value) {
+        properties.setProperty(key, value);
+    }
+
+    /**
+     * Перевіряє, чи задано параметр із точно вказаним ключем.
+     *
+     * @param key Ключ параметра
+     * @return true, якщо параметр задано
+     */
+    public static boolean contains(String key) {
+        return properties.containsKey(key);
+    }
+
+    /**
+     * Повертає відсортовані ключі заданих параметрів з указаним префіксом.
+     *
+     * @param prefix Префікс ключів
+     * @return Ключі параметрів
+     */
+    public static @NotNull List<String> getKeys(String prefix) {
+        return properties.stringPropertyNames().stream()
+                .filter(key -> key.startsWith(prefix))
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * Читає дійсне число.
+     */
+    public static double getDouble(String key, double defaultValue) {
+        return get(key, defaultValue, Double::parseDouble);
+    }
+
+    /**
+     * Читає ціле число.
+     */
+    public static int getInt(String key, int defaultValue) {
+        return get(key, defaultValue, Integer::parseInt);
+    }
+
+    /**
+     * Читає довге ціле число.
+     */
+    public static long getLong(String key, long defaultValue) {
+        return get(key, defaultValue, Long::parseLong);
+    }
+
+    /**
+     * Читає логічне значення.
+     */
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        return get(key, defaultValue, CrossroadsConfig::parseBoolean);
+    }
+
+    /**
+     * Читає рядок.
+     */
+    public static String getString(String key, String defaultValue) {
+        return properties.getProperty(key, defaultValue).trim();
+    }
+
+    /**
+     * Читає масив цілих чисел, розділених комами.
+     */
+    public static int[] getIntArray(String key, int[] defaultValue) {
+        return get(key, defaultValue, CrossroadsConfig::parseIntArray);
+    }
+
+    /**
+     * Читає масив дійсних чисел, розділених комами.
+     */
+    public static double[] getDoubleArray(String key, double[] defaultValue) {
+        return get(key, defaultValue, CrossroadsConfig::parseDoubleArray);
+    }
+
+    /**
+     * Читає матрицю дійсних чисел: рядки розділені крапкою з комою, елементи — комами.
+     */
+    public static double[][] getDoubleMatrix(String key, double[][] defaultValue) {
+        return get(key, defaultValue, CrossroadsConfig::parseDoubleMatrix);
+    }
+
+    /**
+     * Перевіряє конфігурацію: відомість ключів, формат і допустимість значень, кількість напрямків руху,
+     * відповідність ваг сценаріїв їх кількості та сумісність режимів генетичного алгоритму.
+     *
+     * @return Повідомлення про помилки (порожній список, якщо конфігурація коректна)
+     */
+    public static @NotNull List<String> validate() {
+        List<String> errors = new ArrayList<>();
+        for (String key : getKeys("")) {
+            Parameter<?> parameter = PARAMETERS.get(key);
+            if (key.startsWith(GRID_PREFIX)) {
+                errors.addAll(checkGrid(key));
+            } else if (parameter != null) {
+                String error = parameter.check(key, properties.getProperty(key));
+                if (error != null) {
+                    errors.add(error);
+                }
+            } else if (OPEN_PREFIXES.stream().noneMatch(key::startsWith)) {
+                errors.add("Невідомий параметр: " + key);
+            }
+        }
+
+        if (Boolean.TRUE.equals(peek("ga.isMultiFidelity", CrossroadsConfig::parseBoolean))
+                && Boolean.TRUE.equals(peek("ga.isSteadyState", CrossroadsConfig::parseBoolean))) {
+            errors.add("Параметри ga.isMultiFidelity та ga.isSteadyState не можна вмикати одночасно: "
+                    + "асинхронна еволюція оцінює нащадків лише з повною точністю");
+        }
+        Integer workers = peek("ga.workers", Integer::parseInt);
+        if (Boolean.TRUE.equals(peek("ga.isSteadyState", CrossroadsConfig::parseBoolean))
+                && !Boolean.TRUE.equals(peek("ga.isVectorized", CrossroadsConfig::parseBoolean))
+                && workers != null && workers > 1) {
+            errors.add("Параметр ga.workers більше 1 в асинхронній еволюції потребує ga.isVectorized=true: "
+                    + "одночасні прогони PetriObjModel.go не гарантовано безпечні");
+        }
+
+        double[][] arrivalScenarios = peek("scenarios.arrivalTimes", CrossroadsConfig::parseDoubleMatrix);
+        double[] weights = peek("scenarios.weights", CrossroadsConfig::parseDoubleArray);
+        double[] durations = peek("scenarios.durations", CrossroadsConfig::parseDoubleArray);
+        int scenarioCount = arrivalScenarios != null ? arrivalScenarios.length : DEFAULT_SCENARIO_COUNT;
+        if (properties.containsKey("scenarios.weights") && properties.containsKey("scenarios.durations")) {
+            errors.add("Параметри scenarios.weights та scenarios.durations не можна задавати одночасно");
+        } else if (durations != null) {
+            if (durations.length != scenarioCount) {
+                errors.add(String.format("Кількість тривалостей scenarios.durations (%d) не відповідає кількості сценаріїв scenarios.arrivalTimes (%d)",
+                        durations.length, scenarioCount));
+            }
+        } else {
+            int weightCount = weights != null ? weights.length : DEFAULT_SCENARIO_COUNT;
+            if (weightCount != scenarioCount) {
+                errors.add(String.format("Кількість ваг scenarios.weights (%d) не відповідає кількості сценаріїв scenarios.arrivalTimes (%d)",
+                        weightCount, scenarioCount));
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Читає параметр заданим розбором; недійсне значення повідомляється та спричиняє виняток.
+     */
+    private static <T> T get(String key, T defaultValue, Function<String, T> parser) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return parser.apply(value.trim());
+        } catch (IllegalArgumentException e) {
+            String message = String.format("Недійсне значення параметра %s: %s", key, value);
+            System.err.println("[ПОМИЛКА] " + message);
+            throw new IllegalArgumentException(message, e);
+        }
+    }
+
+    /**
+     * Перевіряє ключ сітки налаштування: параметр має бути відомим параметром запуску оптимізатора,
+     * а кожне значення сітки — допустимим і неповторюваним.
+     *
+     * @return Повідомлення про помилки
+     */
+    private static @NotNull List<String> checkGrid(@NotNull String gridKey) {
+        String key = gridKey.substring(GRID_PREFIX.length());
+        Parameter<?> parameter = PARAMETERS.get(key);
+        if (parameter == null || key.startsWith("tune.") || key.startsWith("output.") || TUNER_KEYS.contains(key)) {
+            return List.of("Невідомий або недоступний для сітки параметр: " + gridKey);
+        }
+
+        List<String> errors = new ArrayList<>();
+        List<String> values = Arrays.stream(properties.getProperty(gridKey).split(",")).map(String::trim).toList();
+        for (String value : values) {
+            String error = parameter.check(gridKey, value);
+            if (error != null) {
+                errors.add(error);
+            }
+        }
+        if (values.stream().distinct().count() != values.size()) {
+            errors.add("Повторювані значення сітки: " + gridKey);
+        }
+        return errors;
+    }
+
+    /**
+     * Розбирає заданий параметр для перехресних перевірок.
+     *
+     * @return Розібране значення або null, якщо параметр не задано чи він недійсний
+     */
+    private static <T> T peek(String key, Function<String, T> parser) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return parser.apply(value.trim());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static @NotNull Parameter<Integer> intParameter(Predicate<Integer> isValid, String condition) {
+        return new Parameter<>(Integer::parseInt, isValid, condition);
+    }
+
+    private static @NotNull Parameter<Double> doubleParameter(Predicate<Double> isValid, String condition) {
+        return new Parameter<>(Double::parseDouble, value -> Double.isFinite(value) && isValid.test(value), condition);
+    }
+
+    private static @NotNull Parameter<Boolean> booleanParameter() {
+        return new Parameter<>(CrossroadsConfig::parseBoolean, value -> true, "true або false");
+    }
+
+    private static @NotNull Parameter<String> pathParameter() {
+        return new Parameter<>(Function.identity(), value -> !value.isBlank(), "непорожній шлях до файлу");
+    }
+
+    private static boolean isDirectionTimes(double @NotNull [] times) {
+        return times.length == DIRECTIONS && Arrays.stream(times).allMatch(time -> Double.isFinite(time) && time > 0);
+    }
+
+    private static boolean parseBoolean(@NotNull String value) {
+        if (!value.equalsIgnoreCase("true") && !value.equalsIgnoreCase("false")) {
+            throw new IllegalArgumentException(value);
+        }
+        return Boolean.parseBoolean(value);
+    }
+
+    private static int @NotNull [] parseIntArray(@NotNull String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+    }
+
+    private static double @NotNull [] parseDoubleArray(@NotNull String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .mapToDouble(Double::parseDouble)
+                .toArray();
+    }
+
+    private static double[] @NotNull [] parseDoubleMatrix(@NotNull String value) {
+        return Arrays.stream(value.split(";"))
+                .map(CrossroadsConfig::parseDoubleArray)
+                .toArray(double[][]::new);
+    }
+}
@@ -1,9 +1,15 @@
 package LibTest.TERM_PAPER.EVOLUTIONARY_SELECTION;
 
+import LibTest.TERM_PAPER.POM.AdjustableCrossroads;
+
 import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
 
 import static LibTest.TERM_PAPER.EVOLUTIONARY_SELECTION.TrafficLightOptimizer.*;
 import static LibTest.TERM_PAPER.POM.AdjustableCrossroads.*;
+import static LibTest.TERM_PAPER.POM.AdjustableCrossroadsScenarios.*;
+import static LibTest.TERM_PAPER.POM.AdjustableCrossroadsVectorKernel.goScenarioStatsBatch;
+import static LibTest.TERM_PAPER.POM.AdjustableCrossroadsVectorKernel.goStatsBatch;
 
 /**
  * Представляє індивідуальне рішення (хромосому) в генетичному алгоритмі.
@@ -12,29 +18,137 @@ import static LibTest.TERM_PAPER.POM.AdjustableCrossroads.*;
 public class Individual {
 
     /**
-     * Ймовірність мутації генів індивідуума та оцінка придатності.
+     * Ймовірність мутації генів індивідуума, оцінка придатності та рівень точності, з яким її отримано.
      */
     protected final int[] phaseTimes;
     protected double fitness;
+    protected int fidelity;
+
+    /**
+     * Загальна кількість оцінок придатності (прогонів симуляції для однієї конфігурації).
+     */
+    protected static final LongAdder evaluations = new LongAdder();
 
     /**
-     * Створює індивідуума з заданими часами фаз та оцінює його придатність.
+     * Створює індивідуума з заданими часами фаз та оцінює його придатність з повною точністю.
      *
      * @param phaseTimes Масив тривалостей фаз світлофора
      */
     public Individual(int[] phaseTimes) {
+        this(phaseTimes, FULL_FIDELITY);
+    }
+
+    /**
+     * Створює індивідуума з заданими часами фаз та оцінює його придатність із заданою точністю.
+     *
+     * @param phaseTimes Масив тривалостей фаз світлофора
+     * @param fidelity   Рівень точності оцінки
+     */
+    public Individual(int[] phaseTimes, int fidelity) {
         this.phaseTimes = Arrays.copyOf(phaseTimes, phaseTimes.length);
+        this.fidelity = fidelity;
         fitness = evaluateFitness();
     }
 
+    /**
+     * Створює індивідуума з заданими часами фаз та вже обчисленою придатністю.
+     *
+     * @param phaseTimes Масив тривалостей фаз світлофора
+     * @param fitness    Оцінка придатності
+     * @param fidelity   Рівень точності, з яким обчислено придатність
+     */
+    protected Individual(int[] phaseTimes, double fitness, int fidelity) {
+        this.phaseTimes = Arrays.copyOf(phaseTimes, phaseTimes.length);
+        this.fitness = fitness;
+        this.fidelity = fidelity;
+    }
+
+    /**
+     * Повторно оцінює придатність індивідуума з вищою точністю.
+     *
+     * @param fidelity Новий рівень точності оцінки
+     */
+    public void promote(int fidelity) {
+        this.fidelity = fidelity;
+        fitness = evaluateFitness();
+    }
+
+    /**
+     * Горизонт симуляції для рівня точності: кожен нижчий рівень коротший у {@code FIDELITY_ETA} разів.
+     *
+     * @param fidelity Рівень точності оцінки
+     * @return Час симуляції
+     */
+    public static double getFidelityTime(int fidelity) {
+        return SIMULATION_TIME / Math.pow(FIDELITY_ETA, FULL_FIDELITY - fidelity);
+    }
+
+    /**
+     * Кількість ітерацій для рівня точності: кожен нижчий рівень має у {@code FIDELITY_ETA} разів менше ітерацій.
+     *
+     * @param fidelity Рівень точності оцінки
+     * @return Кількість ітерацій: {@code ITERATIONS} на повній точності, на нижчих рівнях — не менше двох,
+     * але не більше {@code ITERATIONS}
+     */
+    public static int getFidelityIterations(int fidelity) {
+        if (fidelity >= FULL_FIDELITY) {
+            return ITERATIONS;
+        }
+        return Math.min(ITERATIONS, Math.max(2, (int) Math.ceil(ITERATIONS / Math.pow(FIDELITY_ETA, FULL_FIDELITY - fidelity))));
+    }
+
     /**
      * Оцінює придатність поточної конфігурації світлофора.
      * Нижча придатність вказує на кращу продуктивність (менше машин, що очікують).
+     * У робастному режимі придатність зважує найгірше та очікуване значення за сценаріями інтенсивності руху.
      *
      * @return Оцінка придатності, що представляє метрику заторів руху
      */
     private double evaluateFitness() {
-        return getIndividualMetric(goStats(phaseTimes, arrivalTimesInit, SIMULATION_TIME, ITERATIONS));
+        if (IS_VECTORIZED) {
+            return evaluateFitnessBatch(new int[][]{phaseTimes}, fidelity)[0];
+        }
+        evaluations.increment();
+        double simulationTime = getFidelityTime(fidelity);
+        int iterations = getFidelityIterations(fidelity);
+        if (IS_ROBUST) {
+            return getRobustFitness(goScenarioStats(phaseTimes, arrivalScenariosInit, simulationTime, iterations));
+        }
+        return getIndividualMetric(goStats(phaseTimes, arrivalTimesInit, simulationTime, iterations));
+    }
+
+    /**
+     * Оцінює придатність множини конфігурацій світлофора одним проходом векторизованого ядра.
+     * У робастному режимі всі сценарії інтенсивності руху оцінюються тим самим проходом.
+     * Зерна ядра беруться з {@code RANDOM}, тож за фіксованого {@code ga.seed} оцінка відтворювана.
+     *
+     * @param phaseTimes Масиви тривалостей фаз світлофора
+     * @param fidelity   Рівень точності оцінки
+     * @return Оцінки придатності для кожної конфігурації
+     */
+    protected static double[] evaluateFitnessBatch(int[][] phaseTimes, int fidelity) {
+        evaluations.add(phaseTimes.length);
+        double simulationTime = getFidelityTime(fidelity);
+        int iterations = getFidelityIterations(fidelity);
+        if (IS_ROBUST) {
+            return Arrays.stream(goScenarioStatsBatch(phaseTimes, arrivalScenariosInit, simulationTime, iterations, RANDOM.nextLong()))
+                    .mapToDouble(Individual::getRobustFitness)
+                    .toArray();
+        }
+        return Arrays.stream(goStatsBatch(phaseTimes, arrivalTimesInit, simulationTime, iterations, RANDOM.nextLong()))
+                .mapToDouble(AdjustableCrossroads::getIndividualMetric)
+                .toArray();
+    }
+
+    /**
+     * Зважує найгірше та очікуване значення метрики за сценаріями інтенсивності руху.
+     *
+     * @param scenarioStats Статистика у форматі [сценарій][ітерація][показник]
+     * @return Робастна оцінка придатності
+     */
+    private static double getRobustFitness(double[][][] scenarioStats) {
+        double[] robustMetric = getRobustMetric(scenarioStats, scenarioWeightsInit);
+        return ROBUST_RISK_WEIGHT * robustMetric[0] + (1 - ROBUST_RISK_WEIGHT) * robustMetric[1];
     }
 
     /**
@@ -42,6 +156,16 @@ public class Individual {
      * Мутація допомагає досліджувати простір рішень та запобігати передчасній конвергенції.
      */
     public void mutate() {
+        mutatePhaseTimes(phaseTimes);
+        fitness = evaluateFitness();
+    }
+
+    /**
+     * Мутує часи фаз без оцінки придатності.
+     *
+     * @param phaseTimes Масив тривалостей фаз світлофора, що змінюється на місці
+     */
+    protected static void mutatePhaseTimes(int[] phaseTimes) {
         for (int i = 0; i < phaseTimes.length; i += 2) {
             if (RANDOM.nextDouble() < MUTATION_RATE) {
                 phaseTimes[i] = Math.max(
@@ -53,6 +177,5 @@ public class Individual {
                 );
             }
         }
-        fitness = evaluateFitness();
     }
 }
@@ -4,8 +4,15 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntConsumer;
 
 import static LibTest.TERM_PAPER.EVOLUTIONARY_SELECTION.TrafficLightOptimizer.*;
+import static LibTest.TERM_PAPER.POM.AdjustableCrossroadsScenarios.arrivalScenariosInit;
 
 /**
  * Керує популяцією осіб протягом еволюції генетичного алгоритму.
@@ -95,6 +102,13 @@ public class Population {
             0.1489, 0.1488, 0.1486, 0.1485, 0.1483, 0.1482, 0.1480, 0.1479, 0.1477, 0.1476, 0.1474, 0.1473
     };
 
+    /**
+     * Порядок осіб: спершу вищий рівень точності оцінки, далі нижча придатність.
+     * Без багаторівневої оцінки всі особи мають повну точність, і порядок збігається з порядком за придатністю.
+     */
+    private static final Comparator<Individual> RANK = Comparator.<Individual>comparingInt(ind -> -ind.fidelity)
+            .thenComparingDouble(ind -> ind.fitness);
+
     /**
      * Масив осіб, що складають популяцію.
      */
@@ -105,6 +119,19 @@ public class Population {
      */
     protected int generation = 0;
 
+    /**
+     * Рівень точності відбіркової оцінки нащадків у поточному поколінні.
+     */
+    protected int screeningFidelity = 0;
+
+    /**
+     * Витрачений та заощаджений модельний час (горизонт × ітерації) за поточне покоління та загалом.
+     */
+    protected double generationSimulatedTime = 0;
+    protected double generationSavedTime = 0;
+    protected double totalSimulatedTime = 0;
+    protected double totalSavedTime = 0;
+
     /**
      * Створює популяцію з варіаціями початкових часів фаз.
      *
@@ -112,66 +139,243 @@ public class Population {
      * @param initialPhaseTimes Базові часи фаз для початкової популяції
      */
     public Population(int size, int[] initialPhaseTimes) {
-        individuals = new Individual[size];
+        int[][] variedPhaseTimes = new int[size][];
         for (int i = 0; i < size; ++i) {
-            int[] variedPhaseTimes = Arrays.copyOf(initialPhaseTimes, initialPhaseTimes.length);
-            variedPhaseTimes[0] += RANDOM.nextInt(MAX_PHASE_TIME - MIN_PHASE_TIME + 1) + MIN_PHASE_TIME;
-            variedPhaseTimes[2] += RANDOM.nextInt(MAX_PHASE_TIME - MIN_PHASE_TIME + 1) + MIN_PHASE_TIME;
-            variedPhaseTimes[0] = Math.min(MAX_PHASE_TIME, Math.max(MIN_PHASE_TIME, variedPhaseTimes[0]));
-            variedPhaseTimes[2] = Math.min(MAX_PHASE_TIME, Math.max(MIN_PHASE_TIME, variedPhaseTimes[2]));
-            individuals[i] = new Individual(variedPhaseTimes);
+            variedPhaseTimes[i] = Arrays.copyOf(initialPhaseTimes, initialPhaseTimes.length);
+            variedPhaseTimes[i][0] += RANDOM.nextInt(MAX_PHASE_TIME - MIN_PHASE_TIME + 1) + MIN_PHASE_TIME;
+            variedPhaseTimes[i][2] += RANDOM.nextInt(MAX_PHASE_TIME - MIN_PHASE_TIME + 1) + MIN_PHASE_TIME;
+            variedPhaseTimes[i][0] = Math.min(MAX_PHASE_TIME, Math.max(MIN_PHASE_TIME, variedPhaseTimes[i][0]));
+            variedPhaseTimes[i][2] = Math.min(MAX_PHASE_TIME, Math.max(MIN_PHASE_TIME, variedPhaseTimes[i][2]));
         }
+        individuals = IS_MULTI_FIDELITY ? race(variedPhaseTimes) : createIndividuals(variedPhaseTimes, FULL_FIDELITY);
     }
 
     /**
      * Еволюція популяції: сортування, елітизм, відтворення та мутація.
      */
     public void evolve() {
-        Arrays.sort(individuals, Comparator.comparingDouble(ind -> ind.fitness));
+        Arrays.sort(individuals, RANK);
 
         Individual[] newGeneration = new Individual[individuals.length];
 
         // Елітизм: збереження кращих виконавців
         double factor = generation < elitarismPercentage.length ? elitarismPercentage[generation] : .4 * Math.exp(-generation / 1000.);
-        int eliteCount = (int) (individuals.length * factor);
+        int eliteCount = Math.min(individuals.length, (int) (individuals.length * factor * ELITISM_SCALE));
         System.arraycopy(individuals, 0, newGeneration, 0, eliteCount);
 
         // Заповнення решти популяції через відтворення
-        for (int i = eliteCount; i < newGeneration.length; ++i) {
-            newGeneration[i] = (RANDOM.nextDouble() < CROSSOVER_RATE) ? createChild() : createMutatedIndividual();
+        if (IS_MULTI_FIDELITY) {
+            generationSimulatedTime = 0;
+            generationSavedTime = 0;
+            screeningFidelity = Math.min(FULL_FIDELITY, generation * FIDELITY_LEVELS / MAX_GENERATIONS);
+
+            // Еліта, оцінена з неповною точністю, переоцінюється з повною
+            promote(Arrays.stream(newGeneration, 0, eliteCount)
+                    .filter(ind -> ind.fidelity < FULL_FIDELITY)
+                    .toArray(Individual[]::new), FULL_FIDELITY);
+
+            int[][] offspringPhaseTimes = breedOffspring(newGeneration.length - eliteCount);
+            System.arraycopy(race(offspringPhaseTimes), 0, newGeneration, eliteCount, offspringPhaseTimes.length);
+        } else {
+            // Кожен нащадок оцінюється один раз після схрещування та мутації
+            int[][] offspringPhaseTimes = breedOffspring(newGeneration.length - eliteCount);
+            System.arraycopy(createIndividuals(offspringPhaseTimes, FULL_FIDELITY), 0, newGeneration, eliteCount, offspringPhaseTimes.length);
         }
 
         individuals = newGeneration;
     }
 
     /**
-     * Створює дочірню особу через турнірний відбір, схрещування та мутацію.
+     * Асинхронна стаціонарна (steady-state) еволюція без бар'єрів між поколіннями.
+     * Нащадки оцінюються паралельно; щойно оцінка завершується, нащадок заміщує найгіршу особу,
+     * якщо він кращий за неї, і одразу відтворюється та відправляється на оцінку новий нащадок,
+     * тож усі потоки залишаються зайнятими. Відтворення виконується лише в потоці виклику.
+     * Без векторизованого ядра оцінка виконується одним потоком, оскільки потокобезпечність
+     * {@code PetriObjModel.go} не гарантується.
      *
-     * @return Дочірня особа
+     * @param evaluations        Загальна кількість оцінок нащадків
+     * @param onPseudoGeneration Викликається з номером псевдопокоління після кожних {@code individuals.length} оцінок
+     *                           (та для початкової популяції)
      */
-    private @NotNull Individual createChild() {
-        Individual parent1 = tournamentSelection();
-        Individual parent2 = tournamentSelection();
+    public void evolveSteadyState(int evaluations, @NotNull IntConsumer onPseudoGeneration) {
+        ExecutorService executor = Executors.newFixedThreadPool(WORKERS);
+        CompletionService<Individual> completionService = new ExecutorCompletionService<>(executor);
+        try {
+            int dispatched = 0;
+            for (; dispatched < Math.min(WORKERS, evaluations); ++dispatched) {
+                dispatchOffspring(completionService);
+            }
 
-        // Схрещування та мутація
-        int[] childPhaseTimes = crossover(parent1.phaseTimes, parent2.phaseTimes);
-        Individual child = new Individual(childPhaseTimes);
-        child.mutate();
+            for (int completed = 0; completed < evaluations; ++completed) {
+                if (completed % individuals.length == 0) {
+                    generation = completed / individuals.length;
+                    onPseudoGeneration.accept(generation);
+                }
 
-        return child;
+                replaceWorst(completionService.take().get());
+                if (isTargetReached()) {
+                    break;
+                }
+
+                if (dispatched < evaluations) {
+                    dispatchOffspring(completionService);
+                    ++dispatched;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Помилка оцінки нащадка", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
     }
 
     /**
-     * Створює мутовану особу з випадково вибраної особи у популяції.
+     * Відтворює нащадка в потоці виклику та відправляє його оцінку на виконання.
+     */
+    private void dispatchOffspring(@NotNull CompletionService<Individual> completionService) {
+        int[] offspringPhaseTimes = (RANDOM.nextDouble() < CROSSOVER_RATE) ? breedChild() : breedMutated();
+        recordSimulatedTime(1, FULL_FIDELITY);
+        completionService.submit(() -> new Individual(offspringPhaseTimes));
+    }
+
+    /**
+     * Заміщує найгіршу особу популяції нащадком, якщо нащадок кращий.
+     *
+     * @param offspring Оцінений нащадок
+     */
+    private void replaceWorst(@NotNull Individual offspring) {
+        int worst = 0;
+        for (int i = 1; i < individuals.length; ++i) {
+            if (RANK.compare(individuals[i], individuals[worst]) > 0) {
+                worst = i;
+            }
+        }
+        if (RANK.compare(offspring, individuals[worst]) < 0) {
+            individuals[worst] = offspring;
+        }
+    }
+
+    /**
+     * Відбір нащадків методом послідовного скорочення (successive halving).
+     * Усі нащадки оцінюються з відбірковою точністю, після чого на кожному рівні
+     * найкраща частка {@code 1 / FIDELITY_ETA} переоцінюється з вищою точністю аж до повної.
      *
-     * @return Мутована особа
+     * @param phaseTimes Масиви часів фаз нащадків
+     * @return Оцінені нащадки (решта зберігає оцінку рівня, на якому вибула)
      */
-    private @NotNull Individual createMutatedIndividual() {
-        Individual mutatedIndividual = new Individual(
-                individuals[RANDOM.nextInt(individuals.length)].phaseTimes
-        );
-        mutatedIndividual.mutate();
-        return mutatedIndividual;
+    private Individual @NotNull [] race(int @NotNull [][] phaseTimes) {
+        Individual[] contestants = createIndividuals(phaseTimes, screeningFidelity);
+        Individual[] survivors = contestants.clone();
+        for (int fidelity = screeningFidelity + 1; fidelity <= FULL_FIDELITY; ++fidelity) {
+            Arrays.sort(survivors, RANK);
+            survivors = Arrays.copyOf(survivors, (survivors.length + FIDELITY_ETA - 1) / FIDELITY_ETA);
+            promote(survivors, fidelity);
+        }
+        double fullFidelityTime = phaseTimes.length * getEvaluationTime(FULL_FIDELITY);
+        generationSavedTime += fullFidelityTime;
+        totalSavedTime += fullFidelityTime;
+        return contestants;
+    }
+
+    /**
+     * Переоцінює осіб із заданою точністю; у векторизованому режимі — одним проходом.
+     *
+     * @param promoted Особи для переоцінки
+     * @param fidelity Новий рівень точності оцінки
+     */
+    private void promote(Individual @NotNull [] promoted, int fidelity) {
+        if (IS_VECTORIZED) {
+            double[] fitness = Individual.evaluateFitnessBatch(
+                    Arrays.stream(promoted).map(ind -> ind.phaseTimes).toArray(int[][]::new), fidelity);
+            for (int i = 0; i < promoted.length; ++i) {
+                promoted[i].fitness = fitness[i];
+                promoted[i].fidelity = fidelity;
+            }
+        } else {
+            for (Individual ind : promoted) {
+                ind.promote(fidelity);
+            }
+        }
+        recordSimulatedTime(promoted.length, fidelity);
+    }
+
+    /**
+     * Створює осіб із заданими часами фаз; у векторизованому режимі вся множина оцінюється одним проходом.
+     *
+     * @param phaseTimes Масиви часів фаз осіб
+     * @param fidelity   Рівень точності оцінки
+     * @return Оцінені особи
+     */
+    private Individual @NotNull [] createIndividuals(int @NotNull [][] phaseTimes, int fidelity) {
+        recordSimulatedTime(phaseTimes.length, fidelity);
+        if (!IS_VECTORIZED) {
+            return Arrays.stream(phaseTimes).map(times -> new Individual(times, fidelity)).toArray(Individual[]::new);
+        }
+        double[] fitness = Individual.evaluateFitnessBatch(phaseTimes, fidelity);
+        Individual[] created = new Individual[phaseTimes.length];
+        for (int i = 0; i < phaseTimes.length; ++i) {
+            created[i] = new Individual(phaseTimes[i], fitness[i], fidelity);
+        }
+        return created;
+    }
+
+    /**
+     * Облік витраченого модельного часу; заощаджений час — різниця з оцінкою кожного кандидата з повною точністю.
+     */
+    private void recordSimulatedTime(int evaluations, int fidelity) {
+        double simulatedTime = evaluations * getEvaluationTime(fidelity);
+        generationSimulatedTime += simulatedTime;
+        generationSavedTime -= simulatedTime;
+        totalSimulatedTime += simulatedTime;
+        totalSavedTime -= simulatedTime;
+    }
+
+    /**
+     * Модельний час однієї оцінки: горизонт симуляції, помножений на кількість ітерацій
+     * (та на кількість сценаріїв у робастному режимі).
+     */
+    private static double getEvaluationTime(int fidelity) {
+        return Individual.getFidelityTime(fidelity) * Individual.getFidelityIterations(fidelity)
+                * (IS_ROBUST ? arrivalScenariosInit.length : 1);
+    }
+
+    /**
+     * Генерує часи фаз нащадків без оцінки придатності.
+     *
+     * @param count Кількість нащадків
+     * @return Масиви часів фаз нащадків
+     */
+    private int @NotNull [][] breedOffspring(int count) {
+        int[][] offspringPhaseTimes = new int[count][];
+        for (int i = 0; i < count; ++i) {
+            offspringPhaseTimes[i] = (RANDOM.nextDouble() < CROSSOVER_RATE) ? breedChild() : breedMutated();
+        }
+        return offspringPhaseTimes;
+    }
+
+    /**
+     * Генерує часи фаз дочірньої особи через турнірний відбір, схрещування та мутацію без оцінки придатності.
+     *
+     * @return Часи фаз дочірньої особи
+     */
+    private int @NotNull [] breedChild() {
+        int[] childPhaseTimes = crossover(tournamentSelection().phaseTimes, tournamentSelection().phaseTimes);
+        Individual.mutatePhaseTimes(childPhaseTimes);
+        return childPhaseTimes;
+    }
+
+    /**
+     * Генерує мутовані часи фаз випадково вибраної особи без оцінки придатності.
+     *
+     * @return Мутовані часи фаз
+     */
+    private int @NotNull [] breedMutated() {
+        int[] parentPhaseTimes = individuals[RANDOM.nextInt(individuals.length)].phaseTimes;
+        int[] mutatedPhaseTimes = Arrays.copyOf(parentPhaseTimes, parentPhaseTimes.length);
+        Individual.mutatePhaseTimes(mutatedPhaseTimes);
+        return mutatedPhaseTimes;
     }
 
     /**
@@ -183,7 +387,7 @@ public class Population {
         Individual best = individuals[RANDOM.nextInt(individuals.length)];
         for (int i = 1; i < TOURNEY_SIZE; ++i) {
             Individual candidate = individuals[RANDOM.nextInt(individuals.length)];
-            if (candidate.fitness < best.fitness) {
+            if (RANK.compare(candidate, best) < 0) {
                 best = candidate;
             }
         }
@@ -215,10 +419,20 @@ public class Population {
     public Individual getBestIndividual() {
         return Arrays.stream(individuals)
                 .parallel()
-                .min(Comparator.comparingDouble(ind -> ind.fitness))
+                .min(RANK)
                 .orElse(null);
     }
 
+    /**
+     * Перевіряє, чи досягла найкраща особа, оцінена з повною точністю, цільової придатності {@code ga.targetFitness}.
+     *
+     * @return true, якщо ціль задана та досягнута
+     */
+    public boolean isTargetReached() {
+        Individual best = getBestIndividual();
+        return TARGET_FITNESS > 0 && best.fidelity == FULL_FIDELITY && best.fitness <= TARGET_FITNESS;
+    }
+
     /**
      * Встановлює номер поточного покоління.
      *
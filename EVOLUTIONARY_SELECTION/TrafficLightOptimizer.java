@@ -5,9 +5,12 @@ import org.jetbrains.annotations.NotNull;
 import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
+import java.util.Locale;
 import java.util.Random;
 
+import static LibTest.TERM_PAPER.CONFIG.CrossroadsConfig.*;
 import static LibTest.TERM_PAPER.POM.AdjustableCrossroads.phaseTimesInit;
 
 /**
@@ -28,46 +31,104 @@ import static LibTest.TERM_PAPER.POM.AdjustableCrossroads.phaseTimesInit;
 public class TrafficLightOptimizer {
 
     /**
-     * Параметри генетичного алгоритму та константи.
+     * Параметри генетичного алгоритму та константи (значення за замовчуванням можна перевизначити у конфігурації).
      */
     public static final int MIN_PHASE_TIME = 10;
     public static final int MAX_PHASE_TIME = 90;
-    protected static final int TOURNEY_SIZE = 5;
-    protected static final double CROSSOVER_RATE = 0.75;
-    protected static final double CROSSOVER_ALPHA = 0.5;
-    protected static final double MUTATION_RATE = 0.15;
-    protected static final int MUTATION_DEV = 4;
+    public static final String TUNING_RESULT_PREFIX = "TUNING_RESULT;";
+    protected static final int TOURNEY_SIZE = getInt("ga.tourneySize", 5);
+    protected static final double CROSSOVER_RATE = getDouble("ga.crossoverRate", 0.75);
+    protected static final double CROSSOVER_ALPHA = getDouble("ga.crossoverAlpha", 0.5);
+    protected static final double MUTATION_RATE = getDouble("ga.mutationRate", 0.15);
+    protected static final int MUTATION_DEV = getInt("ga.mutationDev", 4);
     protected static final double penalty = Double.MAX_VALUE;
-    protected static final Random RANDOM = new Random();
-    private static final int POPULATION_SIZE = 20;
-    private static final int MAX_GENERATIONS = 1000;
-    private static final String CSV_FILE_PATH = "fitness_data.csv";
+    protected static final boolean IS_ROBUST = getBoolean("ga.isRobust", false);
+    protected static final double ROBUST_RISK_WEIGHT = getDouble("ga.robustRiskWeight", 0.5);
+    protected static final boolean IS_VECTORIZED = getBoolean("ga.isVectorized", false);
+    protected static final boolean IS_MULTI_FIDELITY = getBoolean("ga.isMultiFidelity", false);
+    protected static final int FIDELITY_LEVELS = getInt("ga.fidelityLevels", 3);
+    protected static final int FIDELITY_ETA = getInt("ga.fidelityEta", 3);
+    protected static final int FULL_FIDELITY = FIDELITY_LEVELS - 1;
+    protected static final boolean IS_STEADY_STATE = getBoolean("ga.isSteadyState", false);
+    protected static final int WORKERS = getInt("ga.workers", IS_VECTORIZED ? Runtime.getRuntime().availableProcessors() : 1);
+    protected static final double ELITISM_SCALE = getDouble("ga.elitismScale", 1.0);
+    protected static final double TARGET_FITNESS = getDouble("ga.targetFitness", 0);
+    protected static final Random RANDOM = new Random(getLong("ga.seed", System.nanoTime()));
+    private static final int POPULATION_SIZE = getInt("ga.populationSize", 20);
+    protected static final int MAX_GENERATIONS = getInt("ga.maxGenerations", 1000);
+    private static final String CSV_FILE_PATH = getString("output.fitnessCsvFilePath", "fitness_data.csv");
     private static final String CSV_HEADER = "Generation,Individual,Fitness,1'st phase,3'rd phase\n";
+    private static final String FIDELITY_CSV_FILE_PATH = getString("output.fidelityCsvFilePath", "fidelity_data.csv");
+    private static final String FIDELITY_CSV_HEADER = "Generation,Screening fidelity,Screening time,Screening iterations,Simulated time,Saved time\n";
 
     /**
      * Запускає оптимізацію генетичним алгоритмом та відображує прогрес придатності.
      */
     public static void main(String[] args) {
+        long startTime = System.nanoTime();
         Population population = new Population(POPULATION_SIZE, phaseTimesInit);
 
-        try (BufferedWriter csvWriter = new BufferedWriter(new FileWriter(CSV_FILE_PATH))) {
+        try (BufferedWriter csvWriter = new BufferedWriter(new FileWriter(CSV_FILE_PATH));
+             BufferedWriter fidelityWriter = IS_MULTI_FIDELITY ? new BufferedWriter(new FileWriter(FIDELITY_CSV_FILE_PATH)) : null) {
             csvWriter.append(CSV_HEADER);
+            if (fidelityWriter != null) {
+                fidelityWriter.append(FIDELITY_CSV_HEADER);
+            }
 
-            for (int generation = 0; generation < MAX_GENERATIONS; ++generation) {
-                writeFitnessData(csvWriter, generation, population);
-                population.setGeneration(generation);
-                population.evolve();
+            if (IS_STEADY_STATE) {
+                population.evolveSteadyState(MAX_GENERATIONS * POPULATION_SIZE, generation -> {
+                    try {
+                        writeFitnessData(csvWriter, generation, population);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    if (generation % 10 == 9 || generation == 0) {
+                        printBestIndividual(generation, population.getBestIndividual());
+                    }
+                });
+            } else {
+                for (int generation = 0; generation < MAX_GENERATIONS && !population.isTargetReached(); ++generation) {
+                    writeFitnessData(csvWriter, generation, population);
+                    population.setGeneration(generation);
+                    population.evolve();
+                    if (fidelityWriter != null) {
+                        writeFidelityData(fidelityWriter, generation, population);
+                    }
 
-                if (generation % 10 == 9 || generation == 0) {
-                    printBestIndividual(generation, population.getBestIndividual());
+                    if (generation % 10 == 9 || generation == 0) {
+                        printBestIndividual(generation, population.getBestIndividual());
+                        if (IS_MULTI_FIDELITY) {
+                            printFidelity(population);
+                        }
+                    }
                 }
             }
             System.out.println("Дані придатності збережено в: " + CSV_FILE_PATH);
-        } catch (IOException e) {
+            if (fidelityWriter != null) {
+                System.out.println("Дані точності оцінки збережено в: " + FIDELITY_CSV_FILE_PATH);
+            }
+        } catch (IOException | UncheckedIOException e) {
             System.err.println("[ПОМИЛКА] Помилка запису до CSV-файлу: " + e.getMessage());
         }
 
         printOptimizationResults(population.getBestIndividual());
+        if (IS_MULTI_FIDELITY) {
+            printSavedTime(population);
+        }
+        if (TARGET_FITNESS > 0) {
+            printTuningResult(population, (System.nanoTime() - startTime) / 1_000_000);
+        }
+    }
+
+    /**
+     * Виводить машинно-читаний рядок результату для налаштування гіперпараметрів:
+     * чи досягнуто цільової придатності, кількість оцінок, тривалість у мілісекундах, найкращу придатність
+     * та витрачений модельний час (оцінки з різною точністю мають різну вартість).
+     */
+    private static void printTuningResult(@NotNull Population population, long elapsedMillis) {
+        System.out.printf(Locale.ROOT, "%s%b;%d;%d;%.6f;%.1f%n", TUNING_RESULT_PREFIX,
+                population.isTargetReached(), Individual.evaluations.sum(), elapsedMillis,
+                population.getBestIndividual().fitness, population.totalSimulatedTime);
     }
 
     /**
@@ -88,6 +149,40 @@ public class TrafficLightOptimizer {
         }
     }
 
+    /**
+     * Записує дані точності оцінки та витраченого модельного часу покоління в CSV-файл.
+     */
+    private static void writeFidelityData(@NotNull BufferedWriter fidelityWriter, int generation, @NotNull Population population) throws IOException {
+        fidelityWriter.append(String.format(Locale.ROOT, "%d,%d,%.1f,%d,%.1f,%.1f%n",
+                generation,
+                population.screeningFidelity,
+                Individual.getFidelityTime(population.screeningFidelity),
+                Individual.getFidelityIterations(population.screeningFidelity),
+                population.generationSimulatedTime,
+                population.generationSavedTime
+        ));
+    }
+
+    /**
+     * Виводить точність відбіркової оцінки поточного покоління.
+     */
+    private static void printFidelity(@NotNull Population population) {
+        System.out.printf("Відбіркова оцінка: горизонт %.1f, ітерацій %d; заощаджено модельного часу: %.1f%n",
+                Individual.getFidelityTime(population.screeningFidelity),
+                Individual.getFidelityIterations(population.screeningFidelity),
+                population.generationSavedTime);
+    }
+
+    /**
+     * Виводить загальний заощаджений модельний час багаторівневої оцінки.
+     */
+    private static void printSavedTime(@NotNull Population population) {
+        double fullFidelityTime = population.totalSimulatedTime + population.totalSavedTime;
+        System.out.printf("Заощаджено модельного часу: %.1f з %.1f (%.2f%%)%n",
+                population.totalSavedTime, fullFidelityTime,
+                fullFidelityTime > 0 ? 100 * population.totalSavedTime / fullFidelityTime : 0);
+    }
+
     /**
      * Виводить найкращу особу та її придатність для поточного покоління.
      */
@@ -9,6 +9,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.stream.IntStream;
 
+import static LibTest.TERM_PAPER.CONFIG.CrossroadsConfig.*;
 import static LibTest.TERM_PAPER.EVOLUTIONARY_SELECTION.TrafficLightOptimizer.MAX_PHASE_TIME;
 import static LibTest.TERM_PAPER.EVOLUTIONARY_SELECTION.TrafficLightOptimizer.MIN_PHASE_TIME;
 
@@ -19,18 +20,27 @@ import static LibTest.TERM_PAPER.EVOLUTIONARY_SELECTION.TrafficLightOptimizer.MI
 public class AdjustableCrossroads {
 
     /**
-     * Константи для симуляції руху на перехресті.
+     * Константи для симуляції руху на перехресті (значення за замовчуванням можна перевизначити у конфігурації).
      */
-    public static final double SIMULATION_TIME = 100_000;
-    public static final int ITERATIONS = 20;
-    public static final int[] phaseTimesInit = {20, 10, 30, 10};
-    public static final double[] arrivalTimesInit = {15.0, 9.0, 20.0, 35.0};
-    private static final boolean IS_SEARCHING = false;
+    public static final double SIMULATION_TIME = getDouble("simulation.time", 100_000);
+    public static final int ITERATIONS = getInt("simulation.iterations", 20);
+    public static final int[] phaseTimesInit = getIntArray("simulation.phaseTimes", new int[]{20, 10, 30, 10});
+    public static final double[] arrivalTimesInit = getDoubleArray("simulation.arrivalTimes", new double[]{15.0, 9.0, 20.0, 35.0});
+    public static final double CROSSING_TIME = 2.0;
+    private static final boolean IS_SEARCHING = getBoolean("sweep.isSearching", false);
 
     /**
      * Головний метод для запуску симуляції руху на перехресті.
      */
     public static void main(String[] args) {
+        runSimulation();
+        runSweep();
+    }
+
+    /**
+     * Симуляція з початковими часами фаз та виведення статистики.
+     */
+    public static void runSimulation() {
         double[][] stats = goStats(phaseTimesInit, arrivalTimesInit, SIMULATION_TIME, ITERATIONS);
 
         printStatistics(stats);
@@ -41,7 +51,12 @@ public class AdjustableCrossroads {
                 ITERATIONS,
                 getIndividualMetric(stats)
         ));
+    }
 
+    /**
+     * Повний перебір часів першої та третьої фаз та виведення найкращої метрики.
+     */
+    public static void runSweep() {
         double minIndividualMetric = findOptimalPhaseTimes();
         System.out.printf("Мінімальна метрика індивіда популяції (найкраща ефективність): %.4f%n", minIndividualMetric);
     }
@@ -77,31 +92,44 @@ public class AdjustableCrossroads {
      */
     public static double[][] goStats(int[] phaseTimes, double[] arrivalTimes, double simulationTime, int iterations) {
         return IntStream.range(0, iterations)
-                .mapToObj(_ -> {
-                    try {
-                        ArrayList<PetriSim> connectedSimulationModels = createSimulationModels(phaseTimes, arrivalTimes);
-                        connectTrafficSubsystems(connectedSimulationModels);
-                        PetriObjModel model = new PetriObjModel(connectedSimulationModels);
-                        model.setIsProtokol(false);
-                        model.go(simulationTime);
-                        return getStatistics(model);
-                    } catch (ExceptionInvalidTimeDelay e) {
-                        System.err.printf("[ПОМИЛКА] Недійсна затримка часу: %s%n", e.getMessage());
-                        return new double[8];
-                    }
-                })
+                .mapToObj(_ -> simulate(phaseTimes, arrivalTimes, simulationTime))
                 .toArray(double[][]::new);
     }
 
+    /**
+     * Одна ітерація симуляції руху на перехресті.
+     * Побудова моделі синхронізована, оскільки лічильники номерів об'єктів мережі Петрі статичні.
+     *
+     * @param phaseTimes     Масив часів фаз світлофора
+     * @param arrivalTimes   Масив часів надходження автомобілів
+     * @param simulationTime Загальний час симуляції
+     * @return Статистика ітерації у форматі {@link #getStatistics(PetriObjModel)}
+     */
+    public static double @NotNull [] simulate(int[] phaseTimes, double[] arrivalTimes, double simulationTime) {
+        try {
+            PetriObjModel model;
+            synchronized (AdjustableCrossroads.class) {
+                ArrayList<PetriSim> connectedSimulationModels = createSimulationModels(phaseTimes, arrivalTimes);
+                connectTrafficSubsystems(connectedSimulationModels);
+                model = new PetriObjModel(connectedSimulationModels);
+            }
+            model.setIsProtokol(false);
+            model.go(simulationTime);
+            return getStatistics(model);
+        } catch (ExceptionInvalidTimeDelay e) {
+            System.err.printf("[ПОМИЛКА] Недійсна затримка часу: %s%n", e.getMessage());
+            return new double[8];
+        }
+    }
+
     /**
      * Отримання максимальної середньої кількості автомобілів, що очікують переїзду перехрестя.
      * Ця метрика використовується для оцінки ефективності роботи перехрестя (метрика індивіда популяції).
+     * Усереднення послідовне, щоб порядок додавання, а отже й результат, не залежав від розподілу між потоками.
      */
     public static double getIndividualMetric(double[][] stats) {
         return Arrays.stream(IntStream.range(0, 4)
-                        .parallel()
                         .mapToDouble(i -> Arrays.stream(stats)
-                                .parallel()
                                 .mapToDouble(stat -> stat[i])
                                 .average()
                                 .orElse(0))
@@ -195,7 +223,7 @@ public class AdjustableCrossroads {
 
         ArrayList<PetriT> transitions = new ArrayList<>(List.of(
                 new PetriT(String.format("Надходження автомобілів №%d", num + 1), arrivalTime),
-                new PetriT(String.format("Переїзд перехрестя №%d", num + 1), 2.0)
+                new PetriT(String.format("Переїзд перехрестя №%d", num + 1), CROSSING_TIME)
         ));
 
         transitions.getFirst().setDistribution("exp", transitions.getFirst().getTimeServ());
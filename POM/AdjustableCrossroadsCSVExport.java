@@ -10,6 +10,8 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.stream.IntStream;
 
+import static LibTest.TERM_PAPER.CONFIG.CrossroadsConfig.getInt;
+import static LibTest.TERM_PAPER.CONFIG.CrossroadsConfig.getString;
 import static LibTest.TERM_PAPER.POM.AdjustableCrossroads.*;
 
 /**
@@ -81,8 +83,8 @@ public class AdjustableCrossroadsCSVExport {
                 arrivalTimesInit,
                 SIMULATION_TIME,
                 ITERATIONS,
-                100,
-                "crossroads_simulation_data.csv"
+                getInt("export.timeStep", 100),
+                getString("export.csvFilePath", "crossroads_simulation_data.csv")
         );
     }
 }
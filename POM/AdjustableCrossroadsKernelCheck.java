@@ -0,0 +1,94 @@
+package LibTest.TERM_PAPER.POM;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Перевірка відповідності векторизованого ядра {@link AdjustableCrossroadsVectorKernel} мережі Петрі перехрестя.
+ * <p>
+ * Середня довжина черги кожного напрямку порівнюється з аналітичним значенням λR²/(2C)
+ * (λ — інтенсивність надходження, R — тривалість червоного світла, C — тривалість циклу)
+ * та з результатом {@link AdjustableCrossroads#goStats} на коротшому горизонті.
+ * Зміна мережі Петрі без відповідної зміни ядра проявляється як розбіжність і ненульовий код завершення.
+ */
+public class AdjustableCrossroadsKernelCheck {
+
+    /**
+     * Параметри перевірки: конфігурації фаз, часи надходження, горизонти та допустимі відносні відхилення.
+     */
+    private static final int[][] PHASE_TIMES = {{20, 10, 30, 10}, {25, 10, 10, 10}};
+    private static final double[] ARRIVAL_TIMES = {15.0, 9.0, 20.0, 35.0};
+    private static final double ANALYTIC_SIMULATION_TIME = 100_000;
+    private static final double PETRI_OBJ_SIMULATION_TIME = 10_000;
+    private static final int ITERATIONS = 20;
+    private static final double ANALYTIC_TOLERANCE = 0.05;
+    private static final double PETRI_OBJ_TOLERANCE = 0.10;
+
+    /**
+     * Запускає перевірку та завершує роботу з кодом 1, якщо виявлено розбіжність.
+     */
+    public static void main(String[] args) {
+        boolean isConsistent = true;
+        for (int[] phaseTimes : PHASE_TIMES) {
+            System.out.printf("%nКонфігурація фаз %s%n", Arrays.toString(phaseTimes));
+            double[] kernelQueues = getMeanQueues(AdjustableCrossroadsVectorKernel.goStats(
+                    phaseTimes, ARRIVAL_TIMES, ANALYTIC_SIMULATION_TIME, ITERATIONS));
+            isConsistent &= compare("аналітична модель", kernelQueues, getAnalyticQueues(phaseTimes), ANALYTIC_TOLERANCE);
+
+            double[] shortKernelQueues = getMeanQueues(AdjustableCrossroadsVectorKernel.goStats(
+                    phaseTimes, ARRIVAL_TIMES, PETRI_OBJ_SIMULATION_TIME, ITERATIONS));
+            double[] petriObjQueues = getMeanQueues(AdjustableCrossroads.goStats(
+                    phaseTimes, ARRIVAL_TIMES, PETRI_OBJ_SIMULATION_TIME, ITERATIONS));
+            isConsistent &= compare("мережа Петрі", shortKernelQueues, petriObjQueues, PETRI_OBJ_TOLERANCE);
+        }
+
+        if (!isConsistent) {
+            System.err.println("[ПОМИЛКА] Векторизоване ядро розходиться з моделлю перехрестя");
+            System.exit(1);
+        }
+        System.out.println("\nВекторизоване ядро узгоджене з моделлю перехрестя");
+    }
+
+    /**
+     * Аналітична середня довжина черги кожного напрямку: λR²/(2C).
+     * Зелене світло в 1 та 2 напрямках триває першу фазу циклу, в 3 та 4 напрямках — третю.
+     */
+    private static double @NotNull [] getAnalyticQueues(int @NotNull [] phaseTimes) {
+        double cycle = phaseTimes[0] + phaseTimes[1] + phaseTimes[2] + phaseTimes[3];
+        return IntStream.range(0, 4)
+                .mapToDouble(direction -> {
+                    double red = cycle - phaseTimes[direction < 2 ? 0 : 2];
+                    return red * red / (2 * cycle * ARRIVAL_TIMES[direction]);
+                })
+                .toArray();
+    }
+
+    /**
+     * Середня за ітераціями довжина черги кожного напрямку.
+     */
+    private static double @NotNull [] getMeanQueues(double[][] stats) {
+        return IntStream.range(0, 4)
+                .mapToDouble(direction -> Arrays.stream(stats).mapToDouble(stat -> stat[direction]).average().orElse(0))
+                .toArray();
+    }
+
+    /**
+     * Порівнює довжини черг ядра з еталонними та виводить відхилення для кожного напрямку.
+     *
+     * @return true, якщо всі відносні відхилення не перевищують допустимого
+     */
+    private static boolean compare(String reference, double[] kernelQueues, double[] referenceQueues, double tolerance) {
+        boolean isConsistent = true;
+        for (int direction = 0; direction < 4; ++direction) {
+            double deviation = Math.abs(kernelQueues[direction] - referenceQueues[direction]) / referenceQueues[direction];
+            boolean isWithinTolerance = deviation <= tolerance;
+            isConsistent &= isWithinTolerance;
+            System.out.printf("  Напрямок %d, %s: ядро %.4f, еталон %.4f, відхилення %.2f%%%s%n",
+                    direction + 1, reference, kernelQueues[direction], referenceQueues[direction],
+                    deviation * 100, isWithinTolerance ? "" : " — РОЗБІЖНІСТЬ");
+        }
+        return isConsistent;
+    }
+}
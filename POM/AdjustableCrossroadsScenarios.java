@@ -0,0 +1,100 @@
+package LibTest.TERM_PAPER.POM;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+import static LibTest.TERM_PAPER.CONFIG.CrossroadsConfig.*;
+import static LibTest.TERM_PAPER.POM.AdjustableCrossroads.*;
+
+/**
+ * Клас для оцінки конфігурації світлофора на наборі сценаріїв інтенсивності руху.
+ * <p>
+ * Оцінка мережею Петрі ({@link #goScenarioStats}) — послідовний цикл за сценаріями, що коштує стільки ж,
+ * скільки окремі виклики {@link AdjustableCrossroads#goStats} для кожного сценарію: модель будується заново
+ * для кожної ітерації, а потокобезпечність прогону {@code PetriObjModel.go} бібліотекою не гарантується.
+ * Оцінка всіх сценаріїв одним проходом виконується векторизованим ядром
+ * ({@link AdjustableCrossroadsVectorKernel#goScenarioStatsBatch}).
+ */
+public class AdjustableCrossroadsScenarios {
+
+    /**
+     * Сценарії часів надходження автомобілів: базовий, година пік та нічний режим.
+     */
+    public static final double[][] arrivalScenariosInit = getDoubleMatrix("scenarios.arrivalTimes", new double[][]{
+            arrivalTimesInit,
+            {10.0, 6.0, 13.0, 23.0},
+            {25.0, 15.0, 35.0, 60.0}
+    });
+    public static final double[] scenarioWeightsInit = !contains("scenarios.durations")
+            ? getDoubleArray("scenarios.weights", new double[]{0.5, 0.3, 0.2})
+            : getProfileWeights(getDoubleArray("scenarios.durations", new double[0]));
+
+    /**
+     * Послідовний запуск симуляції мережею Петрі для всіх сценаріїв.
+     *
+     * @param phaseTimes       Масив часів фаз світлофора
+     * @param arrivalScenarios Масиви часів надходження автомобілів для кожного сценарію
+     * @param simulationTime   Загальний час симуляції
+     * @param iterations       Кількість ітерацій на сценарій
+     * @return Статистика у форматі [сценарій][ітерація][показник]
+     */
+    public static double[][][] goScenarioStats(int[] phaseTimes, double[] @NotNull [] arrivalScenarios, double simulationTime, int iterations) {
+        return Arrays.stream(arrivalScenarios)
+                .map(arrivalTimes -> goStats(phaseTimes, arrivalTimes, simulationTime, iterations))
+                .toArray(double[][][]::new);
+    }
+
+    /**
+     * Перетворення змінного в часі профілю інтенсивності на ваги квазістаціонарних сценаріїв.
+     * Кожен відрізок профілю розглядається як окремий сценарій з вагою, пропорційною його тривалості.
+     *
+     * @param segmentDurations Тривалості відрізків профілю
+     * @return Нормовані ваги сценаріїв
+     */
+    public static double @NotNull [] getProfileWeights(double @NotNull [] segmentDurations) {
+        double totalDuration = Arrays.stream(segmentDurations).sum();
+        return Arrays.stream(segmentDurations)
+                .map(duration -> duration / totalDuration)
+                .toArray();
+    }
+
+    /**
+     * Отримання робастної метрики індивіда: найгіршого та очікуваного значення за сценаріями.
+     *
+     * @param scenarioStats Статистика у форматі {@link #goScenarioStats}
+     * @param weights       Ваги сценаріїв (сума дорівнює 1)
+     * @return Масив {найгірше значення, очікуване значення}
+     */
+    @Contract("_, _ -> new")
+    public static double @NotNull [] getRobustMetric(double[][] @NotNull [] scenarioStats, double[] weights) {
+        if (weights.length != scenarioStats.length) {
+            throw new IllegalArgumentException(String.format(
+                    "Кількість ваг (%d) не відповідає кількості сценаріїв (%d)", weights.length, scenarioStats.length));
+        }
+        double worstCase = 0;
+        double expected = 0;
+        for (int scenario = 0; scenario < scenarioStats.length; ++scenario) {
+            double individualMetric = getIndividualMetric(scenarioStats[scenario]);
+            worstCase = Math.max(worstCase, individualMetric);
+            expected += weights[scenario] * individualMetric;
+        }
+        return new double[]{worstCase, expected};
+    }
+
+    /**
+     * Головний метод для демонстрації використання.
+     */
+    public static void main(String[] args) {
+        double[][][] scenarioStats = goScenarioStats(phaseTimesInit, arrivalScenariosInit, SIMULATION_TIME, ITERATIONS);
+        for (int scenario = 0; scenario < scenarioStats.length; ++scenario) {
+            System.out.printf("Сценарій %d %s: %.4f%n", scenario + 1,
+                    Arrays.toString(arrivalScenariosInit[scenario]), getIndividualMetric(scenarioStats[scenario]));
+        }
+
+        double[] robustMetric = getRobustMetric(scenarioStats, scenarioWeightsInit);
+        System.out.printf("%nНайгірша метрика за сценаріями: %.4f%nОчікувана метрика за сценаріями: %.4f%n",
+                robustMetric[0], robustMetric[1]);
+    }
+}
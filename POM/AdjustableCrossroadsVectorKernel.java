@@ -0,0 +1,251 @@
+package LibTest.TERM_PAPER.POM;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+import static LibTest.TERM_PAPER.POM.AdjustableCrossroads.CROSSING_TIME;
+
+/**
+ * Векторизоване ядро симуляції перехрестя для багатьох ітерацій та конфігурацій одночасно.
+ * <p>
+ * Мережа Петрі перехрестя фіксована: цикл світлофора детермінований
+ * (жовте №1, зелене в 3 та 4 напрямках, жовте №2, зелене в 1 та 2 напрямках),
+ * надходження автомобілів пуассонівські, а перехід "Переїзд перехрестя" багатоканальний,
+ * тож черга накопичується лише під час червоного світла та повністю звільняється на початку зеленого.
+ * Тому стан кожної ітерації зводиться до часу наступного надходження, і ядро просуває
+ * всі ітерації синхронно у формі структури масивів за допомогою SIMD-операцій {@code jdk.incubator.vector}.
+ * <p>
+ * Час надходження задається для кожної ітерації окремо, тож конфігурації фаз, сценарії інтенсивності руху
+ * та ітерації обробляються одним проходом.
+ * <p>
+ * Результат кожної ітерації відповідає формату {@link AdjustableCrossroads#getStatistics}.
+ * Запуск потребує параметра {@code --add-modules jdk.incubator.vector} для javac та java.
+ */
+public class AdjustableCrossroadsVectorKernel {
+
+    /**
+     * Види векторів однакової форми для часу (double) та стану генератора випадкових чисел (long).
+     */
+    private static final VectorSpecies<Double> DOUBLE_SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONG_SPECIES = VectorSpecies.of(long.class, DOUBLE_SPECIES.vectorShape());
+    private static final int LANES = DOUBLE_SPECIES.length();
+    private static final double UNIT_SCALE = 0x1.0p-53;
+
+    /**
+     * Константи логарифма: маска мантиси, біти одиниці, √2, ln 2 у вигляді суми старшої та молодшої частин
+     * та коефіцієнти ряду 2·atanh(s) = 2s·Σ s^(2k) / (2k + 1).
+     */
+    private static final long MANTISSA_MASK = 0x000F_FFFF_FFFF_FFFFL;
+    private static final long ONE_BITS = 0x3FF0_0000_0000_0000L;
+    private static final double SQRT2 = 1.4142135623730951;
+    private static final double LN2_HI = 6.93147180369123816490e-01;
+    private static final double LN2_LO = 1.90821492927058770002e-10;
+    private static final double[] LOG_COEFFICIENTS = IntStream.rangeClosed(0, 10)
+            .mapToDouble(k -> 1.0 / (2 * k + 1))
+            .toArray();
+
+    /**
+     * Запуск симуляції для всієї множини конфігурацій фаз одним проходом з випадковим зерном.
+     */
+    public static double[][][] goStatsBatch(int[] @NotNull [] phaseTimes, double[] arrivalTimes, double simulationTime, int iterations) {
+        return goStatsBatch(phaseTimes, arrivalTimes, simulationTime, iterations, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Запуск симуляції для всієї множини конфігурацій фаз одним проходом.
+     * Стан генератора кожної ітерації виводиться із заданого зерна, тож результат відтворюваний
+     * незалежно від розподілу груп ітерацій між потоками.
+     *
+     * @param phaseTimes     Масиви часів фаз світлофора для кожної конфігурації
+     * @param arrivalTimes   Масив часів надходження автомобілів
+     * @param simulationTime Загальний час симуляції
+     * @param iterations     Кількість ітерацій на конфігурацію
+     * @param seed           Зерно генератора випадкових чисел
+     * @return Статистика у форматі [конфігурація][ітерація][показник]
+     */
+    public static double[][][] goStatsBatch(int[] @NotNull [] phaseTimes, double[] arrivalTimes, double simulationTime, int iterations, long seed) {
+        return Arrays.stream(goScenarioStatsBatch(phaseTimes, new double[][]{arrivalTimes}, simulationTime, iterations, seed))
+                .map(scenarioStats -> scenarioStats[0])
+                .toArray(double[][][]::new);
+    }
+
+    /**
+     * Запуск симуляції для всіх пар (конфігурація фаз, сценарій інтенсивності руху) одним проходом.
+     *
+     * @param phaseTimes       Масиви часів фаз світлофора для кожної конфігурації
+     * @param arrivalScenarios Масиви часів надходження автомобілів для кожного сценарію
+     * @param simulationTime   Загальний час симуляції
+     * @param iterations       Кількість ітерацій на пару (конфігурація, сценарій)
+     * @param seed             Зерно генератора випадкових чисел
+     * @return Статистика у форматі [конфігурація][сценарій][ітерація][показник]
+     */
+    public static double[][][][] goScenarioStatsBatch(int[] @NotNull [] phaseTimes, double[] @NotNull [] arrivalScenarios,
+                                                      double simulationTime, int iterations, long seed) {
+        SplittableRandom seedSource = new SplittableRandom(seed);
+        int scenarios = arrivalScenarios.length;
+        int runs = phaseTimes.length * scenarios * iterations;
+        int paddedRuns = (runs + LANES - 1) / LANES * LANES;
+
+        // Структура масивів: межі зеленого світла в циклі, середні інтервали надходження та стан генератора для кожної ітерації
+        double[] cycle = new double[paddedRuns];
+        double[][] greenStart = new double[2][paddedRuns];
+        double[][] greenEnd = new double[2][paddedRuns];
+        double[][] arrivalMeans = new double[4][paddedRuns];
+        long[] seeds = new long[paddedRuns];
+        for (int run = 0; run < paddedRuns; ++run) {
+            int pair = Math.min(run, runs - 1) / iterations;
+            int[] phases = phaseTimes[pair / scenarios];
+            cycle[run] = phases[0] + phases[1] + phases[2] + phases[3];
+            greenStart[0][run] = phases[1] + phases[2] + phases[3];
+            greenEnd[0][run] = cycle[run];
+            greenStart[1][run] = phases[1];
+            greenEnd[1][run] = phases[1] + phases[2];
+            for (int direction = 0; direction < 4; ++direction) {
+                arrivalMeans[direction][run] = arrivalScenarios[pair % scenarios][direction];
+            }
+            seeds[run] = seedSource.nextLong() | 1;
+        }
+
+        double[][] stats = new double[8][paddedRuns];
+        IntStream.range(0, paddedRuns / LANES)
+                .parallel()
+                .forEach(chunk -> {
+                    int offset = chunk * LANES;
+                    LongVector state = LongVector.fromArray(LONG_SPECIES, seeds, offset);
+                    for (int direction = 0; direction < 4; ++direction) {
+                        int group = direction / 2;
+                        state = simulateDirection(
+                                DoubleVector.fromArray(DOUBLE_SPECIES, cycle, offset),
+                                DoubleVector.fromArray(DOUBLE_SPECIES, greenStart[group], offset),
+                                DoubleVector.fromArray(DOUBLE_SPECIES, greenEnd[group], offset),
+                                state, DoubleVector.fromArray(DOUBLE_SPECIES, arrivalMeans[direction], offset), simulationTime,
+                                stats[direction], stats[direction + 4], offset
+                        );
+                    }
+                });
+
+        return IntStream.range(0, phaseTimes.length)
+                .mapToObj(configuration -> IntStream.range(0, scenarios)
+                        .mapToObj(scenario -> IntStream.range(0, iterations)
+                                .mapToObj(iteration -> {
+                                    int run = (configuration * scenarios + scenario) * iterations + iteration;
+                                    return Arrays.stream(stats).mapToDouble(stat -> stat[run]).toArray();
+                                })
+                                .toArray(double[][]::new))
+                        .toArray(double[][][]::new))
+                .toArray(double[][][][]::new);
+    }
+
+    /**
+     * Запуск симуляції однієї конфігурації фаз, сумісний з {@link AdjustableCrossroads#goStats}.
+     */
+    public static double[][] goStats(int[] phaseTimes, double[] arrivalTimes, double simulationTime, int iterations) {
+        return goStatsBatch(new int[][]{phaseTimes}, arrivalTimes, simulationTime, iterations)[0];
+    }
+
+    /**
+     * Синхронне просування групи ітерацій для одного напрямку руху.
+     * Кожне надходження під час червоного світла чекає до початку наступного зеленого,
+     * що дає внесок у середню довжину черги; автомобіль вважається таким, що проїхав,
+     * якщо переїзд завершився до кінця симуляції.
+     *
+     * @return Оновлений стан генератора випадкових чисел
+     */
+    private static LongVector simulateDirection(
+            DoubleVector cycle,
+            DoubleVector greenStart,
+            DoubleVector greenEnd,
+            LongVector state,
+            DoubleVector arrivalTime,
+            double simulationTime,
+            double[] meanQueue,
+            double[] passed,
+            int offset
+    ) {
+        DoubleVector queueIntegral = DoubleVector.zero(DOUBLE_SPECIES);
+        DoubleVector passedCount = DoubleVector.zero(DOUBLE_SPECIES);
+
+        state = nextState(state);
+        DoubleVector time = exponential(state, arrivalTime);
+        VectorMask<Double> active = time.compare(VectorOperators.LT, simulationTime);
+
+        while (active.anyTrue()) {
+            DoubleVector cycleNumber = (DoubleVector) time.div(cycle)
+                    .convert(VectorOperators.D2L, 0)
+                    .convert(VectorOperators.L2D, 0);
+            DoubleVector cycleTime = time.sub(cycleNumber.mul(cycle));
+
+            // Очікування до початку зеленого світла в поточному або наступному циклі
+            VectorMask<Double> beforeGreen = cycleTime.compare(VectorOperators.LT, greenStart);
+            VectorMask<Double> afterGreen = cycleTime.compare(VectorOperators.GE, greenEnd);
+            DoubleVector wait = DoubleVector.zero(DOUBLE_SPECIES)
+                    .blend(greenStart.sub(cycleTime), beforeGreen)
+                    .blend(greenStart.add(cycle).sub(cycleTime), afterGreen);
+
+            DoubleVector departure = time.add(wait);
+            queueIntegral = queueIntegral.add(departure.min(simulationTime).sub(time), active);
+            passedCount = passedCount.add(1.0,
+                    active.and(departure.add(CROSSING_TIME).compare(VectorOperators.LE, simulationTime)));
+
+            state = nextState(state);
+            time = time.add(exponential(state, arrivalTime), active);
+            active = time.compare(VectorOperators.LT, simulationTime);
+        }
+
+        queueIntegral.div(simulationTime).intoArray(meanQueue, offset);
+        passedCount.intoArray(passed, offset);
+        return state;
+    }
+
+    /**
+     * Крок генератора xorshift64 для всіх ітерацій групи.
+     */
+    private static LongVector nextState(@NotNull LongVector state) {
+        state = state.lanewise(VectorOperators.XOR, state.lanewise(VectorOperators.LSHL, 13));
+        state = state.lanewise(VectorOperators.XOR, state.lanewise(VectorOperators.LSHR, 7));
+        return state.lanewise(VectorOperators.XOR, state.lanewise(VectorOperators.LSHL, 17));
+    }
+
+    /**
+     * Експоненційно розподілений інтервал між надходженнями із заданим середнім.
+     */
+    private static DoubleVector exponential(@NotNull LongVector state, DoubleVector mean) {
+        DoubleVector uniform = ((DoubleVector) state.lanewise(VectorOperators.LSHR, 11)
+                .convert(VectorOperators.L2D, 0))
+                .mul(UNIT_SCALE);
+        return log(uniform.neg().add(1.0)).mul(mean.neg());
+    }
+
+    /**
+     * Натуральний логарифм додатних нормалізованих чисел лише через додавання, множення та ділення.
+     * Вбудована операція {@code VectorOperators.LOG} після JIT-компіляції відрізняється від інтерпретованої
+     * в останніх розрядах, що порушує відтворюваність за зерном. Розклад x = 2^e · m, m ∈ [√½, √2],
+     * та ряд ln m = 2·atanh((m - 1) / (m + 1)) дають однаковий результат у будь-якому режимі виконання.
+     */
+    private static DoubleVector log(@NotNull DoubleVector x) {
+        LongVector bits = x.reinterpretAsLongs();
+        DoubleVector exponent = (DoubleVector) bits.lanewise(VectorOperators.LSHR, 52).sub(1023)
+                .convert(VectorOperators.L2D, 0);
+        DoubleVector mantissa = bits.and(MANTISSA_MASK).or(ONE_BITS).reinterpretAsDoubles();
+        VectorMask<Double> isLarge = mantissa.compare(VectorOperators.GT, SQRT2);
+        mantissa = mantissa.blend(mantissa.mul(0.5), isLarge);
+        exponent = exponent.add(1.0, isLarge);
+
+        DoubleVector s = mantissa.sub(1.0).div(mantissa.add(1.0));
+        DoubleVector z = s.mul(s);
+        DoubleVector series = DoubleVector.broadcast(DOUBLE_SPECIES, LOG_COEFFICIENTS[LOG_COEFFICIENTS.length - 1]);
+        for (int k = LOG_COEFFICIENTS.length - 2; k >= 0; --k) {
+            series = series.mul(z).add(LOG_COEFFICIENTS[k]);
+        }
+        return exponent.mul(LN2_HI).add(s.add(s).mul(series).add(exponent.mul(LN2_LO)));
+    }
+}
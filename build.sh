@@ -0,0 +1,32 @@
+#!/usr/bin/env sh
+# Компіляція проєкту, пакування в crossroads.jar та створення архіву AppCDS crossroads.jsa.
+#
+# Змінна DEPS_CLASSPATH має містити jar-файли PetriObj та org.jetbrains.annotations, наприклад:
+#   DEPS_CLASSPATH=lib/PetriObj.jar:lib/annotations.jar ./build.sh
+#
+# Запуск з архівом (старт короткої задачі значно менше секунди):
+#   java -XX:SharedArchiveFile=out/crossroads.jsa --add-modules jdk.incubator.vector \
+#        -cp out/crossroads.jar:$DEPS_CLASSPATH LibTest.TERM_PAPER.CLI.CrossroadsCLI simulate --config crossroads.properties
+set -e
+cd "$(dirname "$0")"
+
+: "${DEPS_CLASSPATH:?Вкажіть DEPS_CLASSPATH з jar-файлами PetriObj та org.jetbrains.annotations}"
+JAVA_OPTS="--add-modules jdk.incubator.vector"
+MAIN_CLASS=LibTest.TERM_PAPER.CLI.CrossroadsCLI
+
+rm -rf out/classes
+mkdir -p out/classes
+
+# Компіляція та пакування (AppCDS архівує класи лише з jar-файлів)
+javac -encoding UTF-8 $JAVA_OPTS -cp "$DEPS_CLASSPATH" -d out/classes \
+    $(find CLI CONFIG POM EVOLUTIONARY_SELECTION -name '*.java')
+jar --create --file out/crossroads.jar --main-class "$MAIN_CLASS" -C out/classes .
+
+# Перевірка узгодженості векторизованого ядра з мережею Петрі
+java $JAVA_OPTS -cp "out/crossroads.jar:$DEPS_CLASSPATH" "$MAIN_CLASS" check
+
+# Навчальний запуск: класи, завантажені під час короткої оптимізації, записуються в динамічний архів
+java -XX:ArchiveClassesAtExit=out/crossroads.jsa $JAVA_OPTS \
+    -cp "out/crossroads.jar:$DEPS_CLASSPATH" "$MAIN_CLASS" optimize --config cds-training.properties
+
+echo "Архів AppCDS збережено в: out/crossroads.jsa"